@@ -0,0 +1,29 @@
+package com.yucl80.hpc;
+
+/**
+ * Sizing helper for power of two buffers.
+ */
+public final class Capacity {
+
+    public static final int MAX_POWER2 = 1 << 30;
+
+    private Capacity() {
+    }
+
+    /**
+     * Rounds a requested capacity up to the next power of two, so that indexes can be
+     * computed with a mask instead of a modulo.
+     *
+     * @param capacity the requested capacity
+     * @return the smallest power of two not less than {@code capacity}
+     */
+    public static int getCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") must be positive");
+        }
+        if (capacity > MAX_POWER2) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") exceed max capacity (" + MAX_POWER2 + ")");
+        }
+        return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
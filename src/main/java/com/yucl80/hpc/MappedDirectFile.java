@@ -1,3 +1,5 @@
+package com.yucl80.hpc;
+
 import sun.misc.Unsafe;
 import sun.nio.ch.FileChannelImpl;
 
@@ -1,3 +1,5 @@
+package com.yucl80.hpc;
+
 import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
@@ -1,9 +1,12 @@
+package com.yucl80.hpc;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 
+import com.yucl80.hpc.padded.ContendedAtomicInteger;
+import com.yucl80.hpc.padded.ContendedAtomicLong;
+
 
 public class RingBuffer<T> {
     private final long mask;
@@ -14,9 +17,7 @@ public class RingBuffer<T> {
 
     private final ContendedAtomicInteger[] messageReadStatus;
 
-    long r1, r2, r3, r4, r5, r6, r7;
-    AtomicLong readIndex = new AtomicLong(0);
-    long c1, c2, c3, c4, c5, c6, c7, c8;
+    final ContendedAtomicLong readIndex = new ContendedAtomicLong(0);
 
     final Object robj = new Object();
 
@@ -130,8 +131,4 @@ public class RingBuffer<T> {
 
         return list;
     }
-
-    long sumToAvoidOptimization() {
-        return r1 + r2 + r3 + r4 + r5 + r6 + r7 + c1 + c2 + c3 + c4 + c5 + c6 + c7 + c8 + readIndex.get();
-    }
 }
@@ -0,0 +1,23 @@
+package com.yucl80.hpc.padded;
+
+/**
+ * Cache line size shared by the padded primitives.
+ * <p>
+ * Read from {@code -DIntel.CacheLineSize}, 64 bytes by default. The size must be a power
+ * of two no smaller than a long, otherwise the padding arithmetic would silently collapse
+ * slots onto each other, so anything else fails class initialisation.
+ */
+final class CacheLine {
+
+    static final int SIZE = checkSize(Integer.getInteger("Intel.CacheLineSize", 64));
+
+    private CacheLine() {
+    }
+
+    static int checkSize(final int size) {
+        if (size < Long.BYTES || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Intel.CacheLineSize(" + size + ") must be a power of two no smaller than " + Long.BYTES);
+        }
+        return size;
+    }
+}
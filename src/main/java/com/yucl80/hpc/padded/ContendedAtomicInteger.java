@@ -0,0 +1,74 @@
+package com.yucl80.hpc.padded;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * An atomic int that sits alone on its cache line.
+ * <p>
+ * The value lives in the middle of an {@link AtomicIntegerArray} with a full cache line
+ * of padding on each side, so writes to it never invalidate a neighbouring object.
+ */
+public final class ContendedAtomicInteger {
+
+    private static final int CACHE_LINE_INTS = CacheLine.SIZE / Integer.BYTES;
+
+    private final AtomicIntegerArray contendedArray;
+
+    public ContendedAtomicInteger(final int init) {
+        contendedArray = new AtomicIntegerArray(arrayLength());
+
+        set(init);
+    }
+
+    public void set(final int i) {
+        contendedArray.set(CACHE_LINE_INTS, i);
+    }
+
+    public void lazySet(final int i) {
+        contendedArray.lazySet(CACHE_LINE_INTS, i);
+    }
+
+    public int get() {
+        return contendedArray.get(CACHE_LINE_INTS);
+    }
+
+    public int getAndSet(final int i) {
+        return contendedArray.getAndSet(CACHE_LINE_INTS, i);
+    }
+
+    public int incrementAndGet() {
+        return contendedArray.incrementAndGet(CACHE_LINE_INTS);
+    }
+
+    public int getAndIncrement() {
+        return contendedArray.getAndIncrement(CACHE_LINE_INTS);
+    }
+
+    public int decrementAndGet() {
+        return contendedArray.decrementAndGet(CACHE_LINE_INTS);
+    }
+
+    public int getAndDecrement() {
+        return contendedArray.getAndDecrement(CACHE_LINE_INTS);
+    }
+
+    public int addAndGet(final int delta) {
+        return contendedArray.addAndGet(CACHE_LINE_INTS, delta);
+    }
+
+    public int getAndAdd(final int delta) {
+        return contendedArray.getAndAdd(CACHE_LINE_INTS, delta);
+    }
+
+    public boolean compareAndSet(final int expect, final int i) {
+        return contendedArray.compareAndSet(CACHE_LINE_INTS, expect, i);
+    }
+
+    public String toString() {
+        return Integer.toString(get());
+    }
+
+    private static int arrayLength() {
+        return 2 * CACHE_LINE_INTS + 1;
+    }
+}
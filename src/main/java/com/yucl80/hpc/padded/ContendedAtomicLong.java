@@ -0,0 +1,74 @@
+package com.yucl80.hpc.padded;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * An atomic long that sits alone on its cache line.
+ * <p>
+ * The value lives in the middle of an {@link AtomicLongArray} with a full cache line
+ * of padding on each side, so writes to it never invalidate a neighbouring object.
+ */
+public final class ContendedAtomicLong {
+
+    private static final int CACHE_LINE_LONGS = CacheLine.SIZE / Long.BYTES;
+
+    private final AtomicLongArray contendedArray;
+
+    public ContendedAtomicLong(final long init) {
+        contendedArray = new AtomicLongArray(arrayLength());
+
+        set(init);
+    }
+
+    public void set(final long l) {
+        contendedArray.set(CACHE_LINE_LONGS, l);
+    }
+
+    public void lazySet(final long l) {
+        contendedArray.lazySet(CACHE_LINE_LONGS, l);
+    }
+
+    public long get() {
+        return contendedArray.get(CACHE_LINE_LONGS);
+    }
+
+    public long getAndSet(final long l) {
+        return contendedArray.getAndSet(CACHE_LINE_LONGS, l);
+    }
+
+    public long incrementAndGet() {
+        return contendedArray.incrementAndGet(CACHE_LINE_LONGS);
+    }
+
+    public long getAndIncrement() {
+        return contendedArray.getAndIncrement(CACHE_LINE_LONGS);
+    }
+
+    public long decrementAndGet() {
+        return contendedArray.decrementAndGet(CACHE_LINE_LONGS);
+    }
+
+    public long getAndDecrement() {
+        return contendedArray.getAndDecrement(CACHE_LINE_LONGS);
+    }
+
+    public long addAndGet(final long delta) {
+        return contendedArray.addAndGet(CACHE_LINE_LONGS, delta);
+    }
+
+    public long getAndAdd(final long delta) {
+        return contendedArray.getAndAdd(CACHE_LINE_LONGS, delta);
+    }
+
+    public boolean compareAndSet(final long expect, final long l) {
+        return contendedArray.compareAndSet(CACHE_LINE_LONGS, expect, l);
+    }
+
+    public String toString() {
+        return Long.toString(get());
+    }
+
+    private static int arrayLength() {
+        return 2 * CACHE_LINE_LONGS + 1;
+    }
+}
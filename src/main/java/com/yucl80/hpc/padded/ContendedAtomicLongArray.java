@@ -0,0 +1,108 @@
+package com.yucl80.hpc.padded;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed size array of atomic sequences, one cache line per slot.
+ * <p>
+ * Slot {@code i} is stored at index {@code (i + 1) * CACHE_LINE_LONGS} of a single
+ * {@link AtomicLongArray}, so adjacent slots never share a line and the first and last
+ * slots are padded away from neighbouring objects as well.
+ */
+public final class ContendedAtomicLongArray {
+
+    private static final int CACHE_LINE_LONGS = CacheLine.SIZE / Long.BYTES;
+
+    private final int length;
+
+    private final AtomicLongArray contendedArray;
+
+    public ContendedAtomicLongArray(final int length, final long init) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length(" + length + ") must not be negative");
+        }
+        this.length = length;
+        this.contendedArray = new AtomicLongArray(arrayLength(length));
+        for (int i = 0; i < length; i++) {
+            set(i, init);
+        }
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public void set(final int i, final long l) {
+        contendedArray.set(index(i), l);
+    }
+
+    public void lazySet(final int i, final long l) {
+        contendedArray.lazySet(index(i), l);
+    }
+
+    public long get(final int i) {
+        return contendedArray.get(index(i));
+    }
+
+    public long getAndSet(final int i, final long l) {
+        return contendedArray.getAndSet(index(i), l);
+    }
+
+    public long incrementAndGet(final int i) {
+        return contendedArray.incrementAndGet(index(i));
+    }
+
+    public long getAndIncrement(final int i) {
+        return contendedArray.getAndIncrement(index(i));
+    }
+
+    public long decrementAndGet(final int i) {
+        return contendedArray.decrementAndGet(index(i));
+    }
+
+    public long getAndDecrement(final int i) {
+        return contendedArray.getAndDecrement(index(i));
+    }
+
+    public long addAndGet(final int i, final long delta) {
+        return contendedArray.addAndGet(index(i), delta);
+    }
+
+    public long getAndAdd(final int i, final long delta) {
+        return contendedArray.getAndAdd(index(i), delta);
+    }
+
+    public boolean compareAndSet(final int i, final long expect, final long l) {
+        return contendedArray.compareAndSet(index(i), expect, l);
+    }
+
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(get(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    private int index(final int i) {
+        if (i < 0 || i >= length) {
+            throw new IndexOutOfBoundsException("index " + i);
+        }
+        return slotIndex(i);
+    }
+
+    private static int slotIndex(final int i) {
+        return (i + 1) * CACHE_LINE_LONGS;
+    }
+
+    private static int arrayLength(final int length) {
+        try {
+            return Math.addExact(Math.multiplyExact(Math.addExact(length, 1), CACHE_LINE_LONGS), 1);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("length(" + length + ") exceed max padded length", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.yucl80.hpc.padded;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An atomic reference that sits alone on its cache line.
+ * <p>
+ * Padding is counted in 4 byte slots, the size of a compressed oop, so the value is
+ * isolated whether or not compressed oops are enabled.
+ *
+ * @param <V> the type of the referenced object
+ */
+public final class ContendedAtomicReference<V> {
+
+    private static final int CACHE_LINE_REFS = CacheLine.SIZE / Integer.BYTES;
+
+    private final AtomicReferenceArray<V> contendedArray;
+
+    public ContendedAtomicReference(final V init) {
+        contendedArray = new AtomicReferenceArray<>(arrayLength());
+
+        set(init);
+    }
+
+    public void set(final V v) {
+        contendedArray.set(CACHE_LINE_REFS, v);
+    }
+
+    public void lazySet(final V v) {
+        contendedArray.lazySet(CACHE_LINE_REFS, v);
+    }
+
+    public V get() {
+        return contendedArray.get(CACHE_LINE_REFS);
+    }
+
+    public V getAndSet(final V v) {
+        return contendedArray.getAndSet(CACHE_LINE_REFS, v);
+    }
+
+    public boolean compareAndSet(final V expect, final V v) {
+        return contendedArray.compareAndSet(CACHE_LINE_REFS, expect, v);
+    }
+
+    public String toString() {
+        return String.valueOf(get());
+    }
+
+    private static int arrayLength() {
+        return 2 * CACHE_LINE_REFS + 1;
+    }
+}
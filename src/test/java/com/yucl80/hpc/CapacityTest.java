@@ -0,0 +1,41 @@
+package com.yucl80.hpc;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class CapacityTest {
+
+    @Test
+    public void keepsPowersOfTwo() {
+        assertEquals(1, Capacity.getCapacity(1));
+        assertEquals(2, Capacity.getCapacity(2));
+        assertEquals(1 << 30, Capacity.getCapacity(1 << 30));
+    }
+
+    @Test
+    public void roundsUpToNextPowerOfTwo() {
+        assertEquals(4, Capacity.getCapacity(3));
+        assertEquals(1024, Capacity.getCapacity(1000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsCapacityAboveMax() {
+        Capacity.getCapacity((1 << 30) + 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZero() {
+        Capacity.getCapacity(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegative() {
+        Capacity.getCapacity(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMinValue() {
+        Capacity.getCapacity(Integer.MIN_VALUE);
+    }
+}
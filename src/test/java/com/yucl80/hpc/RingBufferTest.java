@@ -0,0 +1,63 @@
+package com.yucl80.hpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class RingBufferTest {
+
+    @Test(timeout = 10000)
+    public void getReturnsPutOrder() {
+        final RingBuffer<String> ring = new RingBuffer<>(4);
+        ring.put(0, "a");
+        ring.put(1, "b");
+        assertEquals("a", ring.get());
+        assertEquals("b", ring.get());
+        assertEquals(2L, ring.readIndex.get());
+    }
+
+    @Test(timeout = 10000)
+    public void capacityIsRoundedUpToPowerOfTwo() {
+        final RingBuffer<Integer> ring = new RingBuffer<>(3);
+        for (int i = 0; i < 4; i++) {
+            ring.put(i, i);
+        }
+        for (int i = 0; i < 4; i++) {
+            assertEquals(Integer.valueOf(i), ring.get());
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void timedGetReturnsNullWhenEmpty() {
+        final RingBuffer<String> ring = new RingBuffer<>(2);
+        assertNull(ring.get(System.currentTimeMillis(), 10));
+    }
+
+    @Test(timeout = 10000)
+    public void getListStopsAtTimeout() {
+        final RingBuffer<String> ring = new RingBuffer<>(4);
+        ring.put(0, "a");
+        ring.put(1, "b");
+        assertEquals(Arrays.asList("a", "b"), ring.getList(3, 10));
+    }
+
+    @Test(timeout = 30000)
+    public void producerWrapsAroundWhileConsumerReads() throws InterruptedException {
+        final int count = 10000;
+        final RingBuffer<Long> ring = new RingBuffer<>(8);
+        final Thread producer = new Thread(() -> {
+            for (long seq = 0; seq < count; seq++) {
+                ring.put(seq, seq);
+            }
+        });
+        producer.start();
+        for (long seq = 0; seq < count; seq++) {
+            assertEquals(Long.valueOf(seq), ring.get());
+        }
+        producer.join();
+        assertEquals(count, ring.readIndex.get());
+    }
+}
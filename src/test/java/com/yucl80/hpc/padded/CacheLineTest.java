@@ -0,0 +1,35 @@
+package com.yucl80.hpc.padded;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class CacheLineTest {
+
+    @Test
+    public void acceptsPowersOfTwoFromLongSize() {
+        assertEquals(8, CacheLine.checkSize(8));
+        assertEquals(64, CacheLine.checkSize(64));
+        assertEquals(128, CacheLine.checkSize(128));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsSizeSmallerThanLong() {
+        CacheLine.checkSize(4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonPowerOfTwo() {
+        CacheLine.checkSize(60);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZero() {
+        CacheLine.checkSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegative() {
+        CacheLine.checkSize(-64);
+    }
+}
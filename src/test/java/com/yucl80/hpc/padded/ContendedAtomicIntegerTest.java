@@ -0,0 +1,63 @@
+package com.yucl80.hpc.padded;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ContendedAtomicIntegerTest {
+
+    @Test
+    public void holdsInitialValue() {
+        assertEquals(7, new ContendedAtomicInteger(7).get());
+    }
+
+    @Test
+    public void setAndLazySet() {
+        final ContendedAtomicInteger i = new ContendedAtomicInteger(0);
+        i.set(3);
+        assertEquals(3, i.get());
+        i.lazySet(4);
+        assertEquals(4, i.get());
+    }
+
+    @Test
+    public void getAndSet() {
+        final ContendedAtomicInteger i = new ContendedAtomicInteger(1);
+        assertEquals(1, i.getAndSet(2));
+        assertEquals(2, i.get());
+    }
+
+    @Test
+    public void incrementAndDecrement() {
+        final ContendedAtomicInteger i = new ContendedAtomicInteger(10);
+        assertEquals(11, i.incrementAndGet());
+        assertEquals(11, i.getAndIncrement());
+        assertEquals(11, i.decrementAndGet());
+        assertEquals(11, i.getAndDecrement());
+        assertEquals(10, i.get());
+    }
+
+    @Test
+    public void addAndGetAndAdd() {
+        final ContendedAtomicInteger i = new ContendedAtomicInteger(100);
+        assertEquals(105, i.addAndGet(5));
+        assertEquals(105, i.getAndAdd(-5));
+        assertEquals(100, i.get());
+    }
+
+    @Test
+    public void compareAndSet() {
+        final ContendedAtomicInteger i = new ContendedAtomicInteger(1);
+        assertFalse(i.compareAndSet(2, 3));
+        assertEquals(1, i.get());
+        assertTrue(i.compareAndSet(1, 3));
+        assertEquals(3, i.get());
+    }
+
+    @Test
+    public void toStringPrintsValue() {
+        assertEquals("-42", new ContendedAtomicInteger(-42).toString());
+    }
+}
@@ -0,0 +1,123 @@
+package com.yucl80.hpc.padded;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ContendedAtomicLongArrayTest {
+
+    @Test
+    public void everySlotHoldsInitialValue() {
+        final ContendedAtomicLongArray seq = new ContendedAtomicLongArray(3, -1L);
+        assertEquals(3, seq.length());
+        for (int i = 0; i < seq.length(); i++) {
+            assertEquals(-1L, seq.get(i));
+        }
+    }
+
+    @Test
+    public void emptyArrayIsAllowed() {
+        assertEquals(0, new ContendedAtomicLongArray(0, 0L).length());
+    }
+
+    @Test
+    public void setAndLazySet() {
+        final ContendedAtomicLongArray seq = new ContendedAtomicLongArray(2, 0L);
+        seq.set(0, 3L);
+        seq.lazySet(1, 4L);
+        assertEquals(3L, seq.get(0));
+        assertEquals(4L, seq.get(1));
+    }
+
+    @Test
+    public void getAndSet() {
+        final ContendedAtomicLongArray seq = new ContendedAtomicLongArray(2, 1L);
+        assertEquals(1L, seq.getAndSet(1, 2L));
+        assertEquals(2L, seq.get(1));
+        assertEquals(1L, seq.get(0));
+    }
+
+    @Test
+    public void incrementAndDecrement() {
+        final ContendedAtomicLongArray seq = new ContendedAtomicLongArray(2, 10L);
+        assertEquals(11L, seq.incrementAndGet(1));
+        assertEquals(11L, seq.getAndIncrement(1));
+        assertEquals(11L, seq.decrementAndGet(1));
+        assertEquals(11L, seq.getAndDecrement(1));
+        assertEquals(10L, seq.get(1));
+        assertEquals(10L, seq.get(0));
+    }
+
+    @Test
+    public void addAndGetAndAdd() {
+        final ContendedAtomicLongArray seq = new ContendedAtomicLongArray(2, 100L);
+        assertEquals(105L, seq.addAndGet(0, 5L));
+        assertEquals(105L, seq.getAndAdd(0, -5L));
+        assertEquals(100L, seq.get(0));
+        assertEquals(100L, seq.get(1));
+    }
+
+    @Test
+    public void compareAndSet() {
+        final ContendedAtomicLongArray seq = new ContendedAtomicLongArray(2, 1L);
+        assertFalse(seq.compareAndSet(0, 2L, 3L));
+        assertEquals(1L, seq.get(0));
+        assertTrue(seq.compareAndSet(0, 1L, 3L));
+        assertEquals(3L, seq.get(0));
+        assertEquals(1L, seq.get(1));
+    }
+
+    @Test
+    public void slotsAreIndependent() {
+        final ContendedAtomicLongArray seq = new ContendedAtomicLongArray(4, 0L);
+        for (int i = 0; i < seq.length(); i++) {
+            seq.set(i, i * 10L);
+        }
+        for (int i = 0; i < seq.length(); i++) {
+            assertEquals(i * 10L, seq.get(i));
+        }
+    }
+
+    @Test
+    public void toStringPrintsSlots() {
+        assertEquals("[1, 1, 1]", new ContendedAtomicLongArray(3, 1L).toString());
+        assertEquals("[]", new ContendedAtomicLongArray(0, 1L).toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getRejectsIndexPastEnd() {
+        new ContendedAtomicLongArray(2, 0L).get(2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void setRejectsNegativeIndex() {
+        new ContendedAtomicLongArray(2, 0L).set(-1, 1L);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void setRejectsIndexPastEnd() {
+        new ContendedAtomicLongArray(2, 0L).set(2, 1L);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void compareAndSetRejectsIndexPastEnd() {
+        new ContendedAtomicLongArray(2, 0L).compareAndSet(2, 0L, 1L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeLength() {
+        new ContendedAtomicLongArray(-1, 0L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsLengthWhosePaddedSizeOverflows() {
+        new ContendedAtomicLongArray(1 << 29, 0L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMaxLength() {
+        new ContendedAtomicLongArray(Integer.MAX_VALUE, 0L);
+    }
+}
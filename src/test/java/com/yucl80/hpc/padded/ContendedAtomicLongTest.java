@@ -0,0 +1,63 @@
+package com.yucl80.hpc.padded;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ContendedAtomicLongTest {
+
+    @Test
+    public void holdsInitialValue() {
+        assertEquals(7L, new ContendedAtomicLong(7L).get());
+    }
+
+    @Test
+    public void setAndLazySet() {
+        final ContendedAtomicLong l = new ContendedAtomicLong(0L);
+        l.set(3L);
+        assertEquals(3L, l.get());
+        l.lazySet(4L);
+        assertEquals(4L, l.get());
+    }
+
+    @Test
+    public void getAndSet() {
+        final ContendedAtomicLong l = new ContendedAtomicLong(1L);
+        assertEquals(1L, l.getAndSet(2L));
+        assertEquals(2L, l.get());
+    }
+
+    @Test
+    public void incrementAndDecrement() {
+        final ContendedAtomicLong l = new ContendedAtomicLong(10L);
+        assertEquals(11L, l.incrementAndGet());
+        assertEquals(11L, l.getAndIncrement());
+        assertEquals(11L, l.decrementAndGet());
+        assertEquals(11L, l.getAndDecrement());
+        assertEquals(10L, l.get());
+    }
+
+    @Test
+    public void addAndGetAndAdd() {
+        final ContendedAtomicLong l = new ContendedAtomicLong(Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE + 5L, l.addAndGet(5L));
+        assertEquals(Integer.MAX_VALUE + 5L, l.getAndAdd(-5L));
+        assertEquals(Integer.MAX_VALUE, l.get());
+    }
+
+    @Test
+    public void compareAndSet() {
+        final ContendedAtomicLong l = new ContendedAtomicLong(1L);
+        assertFalse(l.compareAndSet(2L, 3L));
+        assertEquals(1L, l.get());
+        assertTrue(l.compareAndSet(1L, 3L));
+        assertEquals(3L, l.get());
+    }
+
+    @Test
+    public void toStringPrintsValue() {
+        assertEquals("-42", new ContendedAtomicLong(-42L).toString());
+    }
+}
@@ -0,0 +1,51 @@
+package com.yucl80.hpc.padded;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ContendedAtomicReferenceTest {
+
+    @Test
+    public void holdsInitialValue() {
+        final Object o = new Object();
+        assertSame(o, new ContendedAtomicReference<>(o).get());
+        assertNull(new ContendedAtomicReference<>(null).get());
+    }
+
+    @Test
+    public void setAndLazySet() {
+        final ContendedAtomicReference<String> r = new ContendedAtomicReference<>(null);
+        r.set("a");
+        assertEquals("a", r.get());
+        r.lazySet("b");
+        assertEquals("b", r.get());
+    }
+
+    @Test
+    public void getAndSet() {
+        final ContendedAtomicReference<String> r = new ContendedAtomicReference<>("a");
+        assertEquals("a", r.getAndSet("b"));
+        assertEquals("b", r.get());
+    }
+
+    @Test
+    public void compareAndSetUsesIdentity() {
+        final String a = new String("a");
+        final ContendedAtomicReference<String> r = new ContendedAtomicReference<>(a);
+        assertFalse(r.compareAndSet(new String("a"), "b"));
+        assertSame(a, r.get());
+        assertTrue(r.compareAndSet(a, "b"));
+        assertEquals("b", r.get());
+    }
+
+    @Test
+    public void toStringPrintsValue() {
+        assertEquals("a", new ContendedAtomicReference<>("a").toString());
+        assertEquals("null", new ContendedAtomicReference<>(null).toString());
+    }
+}
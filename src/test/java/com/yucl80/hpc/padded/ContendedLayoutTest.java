@@ -0,0 +1,97 @@
+package com.yucl80.hpc.padded;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+import org.openjdk.jol.vm.VM;
+import org.openjdk.jol.vm.VirtualMachine;
+
+/**
+ * Checks with JOL that every padded value keeps a full cache line between itself and
+ * anything else on the heap.
+ * <p>
+ * Each check builds a real instance, writes a marker through its public API, reads the
+ * backing array out of the underlying atomic array and locates the marker in it, so the
+ * offsets come from the VM rather than from the production index arithmetic.
+ */
+public class ContendedLayoutTest {
+
+    private static final long MARKER = 0x5EED_CAFE_F00DL;
+
+    @Test
+    public void contendedAtomicLongIsIsolated() throws Exception {
+        final Object array = backingArray(new ContendedAtomicLong(MARKER));
+        assertIsolated(array, indexOf(array, MARKER));
+    }
+
+    @Test
+    public void contendedAtomicIntegerIsIsolated() throws Exception {
+        final Object array = backingArray(new ContendedAtomicInteger((int) MARKER));
+        assertIsolated(array, indexOf(array, (int) MARKER));
+    }
+
+    @Test
+    public void contendedAtomicReferenceIsIsolated() throws Exception {
+        final Object marker = new Object();
+        final Object array = backingArray(new ContendedAtomicReference<>(marker));
+        assertIsolated(array, indexOf(array, marker));
+    }
+
+    @Test
+    public void contendedAtomicLongArraySlotsAreIsolated() throws Exception {
+        final ContendedAtomicLongArray seq = new ContendedAtomicLongArray(4, 0L);
+        for (int i = 0; i < seq.length(); i++) {
+            seq.set(i, MARKER + i);
+        }
+        final Object array = backingArray(seq);
+        final int scale = VM.current().arrayIndexScale("long");
+        int previous = -1;
+        for (int i = 0; i < seq.length(); i++) {
+            final int index = indexOf(array, MARKER + i);
+            assertIsolated(array, index);
+            if (previous >= 0) {
+                final long gap = (long) (index - previous) * scale;
+                assertTrue("slots " + (i - 1) + " and " + i + " are " + gap + " bytes apart", gap >= CacheLine.SIZE);
+            }
+            previous = index;
+        }
+    }
+
+    private static Object backingArray(final Object padded) throws Exception {
+        final Field contendedArray = padded.getClass().getDeclaredField("contendedArray");
+        contendedArray.setAccessible(true);
+        final Object atomicArray = contendedArray.get(padded);
+        final Field array = atomicArray.getClass().getDeclaredField("array");
+        return VM.current().getObject(atomicArray, VM.current().fieldOffset(array));
+    }
+
+    private static int indexOf(final Object array, final Object marker) {
+        int found = -1;
+        for (int i = 0; i < Array.getLength(array); i++) {
+            final Object element = Array.get(array, i);
+            if (array instanceof Object[] ? element == marker : marker.equals(element)) {
+                assertEquals("marker written to more than one slot", -1, found);
+                found = i;
+            }
+        }
+        if (found < 0) {
+            fail("marker not found in backing array");
+        }
+        return found;
+    }
+
+    private static void assertIsolated(final Object array, final int index) {
+        final VirtualMachine vm = VM.current();
+        final String component = array.getClass().getComponentType().getName();
+        final long scale = vm.arrayIndexScale(component);
+        final long valueOffset = vm.arrayBaseOffset(component) + index * scale;
+        final long trailing = vm.sizeOf(array) - valueOffset - scale;
+        assertTrue("leading padding " + valueOffset + " < " + CacheLine.SIZE, valueOffset >= CacheLine.SIZE);
+        assertTrue("trailing padding " + trailing + " < " + CacheLine.SIZE, trailing >= CacheLine.SIZE);
+    }
+}